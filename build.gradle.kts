@@ -24,6 +24,8 @@ dependencies {
 tasks.test {
     useJUnitPlatform()
 
+    systemProperty("inject.allocation.budget", providers.gradleProperty("injectAllocationBudget").getOrElse("0"))
+
     testLogging {
         events("PASSED", "FAILED", "SKIPPED")
         showExceptions = true
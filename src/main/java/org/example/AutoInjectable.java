@@ -14,6 +14,14 @@ import java.lang.annotation.Target;
  * и выполняет внедрение зависимостей.
  * </p>
  *
+ * <p>
+ * Если зависимость необязательна, поле помечается {@code @AutoInjectable(required = false)}
+ * или объявляется с типом {@code Optional<Интерфейс>}. При отсутствии реализации в конфигурации
+ * поле с {@code required = false} остается без изменений (сохраняет значение инициализатора),
+ * а поле {@code Optional} получает {@code Optional.empty()}; отсутствие определяется
+ * один раз при построении плана внедрения, без исключений при каждом внедрении.
+ * </p>
+ *
  * <p><b>Пример использования:</b></p>
  * <pre>
  * {@code
@@ -23,6 +31,12 @@ import java.lang.annotation.Target;
  *
  *     @AutoInjectable
  *     private SomeOtherInterface field2;
+ *
+ *     @AutoInjectable(required = false)
+ *     private PluginService plugin;
+ *
+ *     @AutoInjectable
+ *     private Optional<PluginService> optionalPlugin;
  * }
  * }
  * </pre>
@@ -35,5 +49,14 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface AutoInjectable
 {
-
+    /**
+     * Обязательна ли зависимость.
+     * <p>
+     * Если false и реализация не найдена в конфигурации, поле остается без изменений.
+     * Поля типа {@code Optional} необязательны независимо от этого значения.
+     * </p>
+     *
+     * @return true, если отсутствие реализации является ошибкой
+     */
+    boolean required() default true;
 }
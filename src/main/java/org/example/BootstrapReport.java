@@ -0,0 +1,143 @@
+package org.example;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Отчет о жадной инициализации синглтонов, выполненной {@link Injector#bootstrap()}.
+ * <p>
+ * Содержит время создания каждой привязки из файла конфигурации, уровень привязки
+ * в графе зависимостей и критический путь - цепочку зависимостей с наибольшим
+ * суммарным временем создания, которая определяет время готовности контейнера.
+ * </p>
+ *
+ * <p><b>Пример использования:</b></p>
+ * <pre>
+ * {@code
+ * Injector injector = new Injector();
+ * BootstrapReport report = injector.bootstrap();
+ * System.out.println(report);
+ * }
+ * </pre>
+ *
+ * @see Injector
+ * @author ilabe
+ * @version 1.0
+ */
+public class BootstrapReport
+{
+    /**
+     * Сведения о создании одной привязки.
+     */
+    public static class Entry
+    {
+        private final String binding;
+        private final String implementation;
+        private final int level;
+        private final long constructionNanos;
+
+        /**
+         * Создает запись отчета.
+         *
+         * @param binding полное имя интерфейса
+         * @param implementation полное имя класса реализации
+         * @param level уровень привязки в графе зависимостей (0 - нет зависимостей)
+         * @param constructionNanos время создания экземпляра в наносекундах
+         */
+        public Entry(String binding, String implementation, int level, long constructionNanos)
+        {
+            this.binding = binding;
+            this.implementation = implementation;
+            this.level = level;
+            this.constructionNanos = constructionNanos;
+        }
+
+        /** @return полное имя интерфейса */
+        public String getBinding()
+        {
+            return binding;
+        }
+
+        /** @return полное имя класса реализации */
+        public String getImplementation()
+        {
+            return implementation;
+        }
+
+        /** @return уровень привязки в графе зависимостей */
+        public int getLevel()
+        {
+            return level;
+        }
+
+        /** @return время создания экземпляра в наносекундах */
+        public long getConstructionNanos()
+        {
+            return constructionNanos;
+        }
+    }
+
+    private final List<Entry> entries;
+    private final List<String> criticalPath;
+    private final long criticalPathNanos;
+    private final long totalNanos;
+
+    /**
+     * Создает отчет о жадной инициализации.
+     *
+     * @param entries записи по каждой привязке, упорядоченные по уровням
+     * @param criticalPath имена интерфейсов на критическом пути, от корня к листу
+     * @param criticalPathNanos суммарное время создания привязок на критическом пути
+     * @param totalNanos общее время инициализации в наносекундах
+     */
+    public BootstrapReport(List<Entry> entries, List<String> criticalPath, long criticalPathNanos, long totalNanos)
+    {
+        this.entries = Collections.unmodifiableList(entries);
+        this.criticalPath = Collections.unmodifiableList(criticalPath);
+        this.criticalPathNanos = criticalPathNanos;
+        this.totalNanos = totalNanos;
+    }
+
+    /** @return записи по каждой привязке, упорядоченные по уровням */
+    public List<Entry> getEntries()
+    {
+        return entries;
+    }
+
+    /** @return имена интерфейсов на критическом пути, от первой создаваемой привязки к последней */
+    public List<String> getCriticalPath()
+    {
+        return criticalPath;
+    }
+
+    /** @return суммарное время создания привязок на критическом пути в наносекундах */
+    public long getCriticalPathNanos()
+    {
+        return criticalPathNanos;
+    }
+
+    /** @return общее время инициализации в наносекундах */
+    public long getTotalNanos()
+    {
+        return totalNanos;
+    }
+
+    /**
+     * Формирует текстовый отчет: время создания каждой привязки и критический путь.
+     *
+     * @return многострочное описание отчета
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Bootstrap finished in %.3f ms%n", totalNanos / 1e6));
+
+        for (Entry entry : entries)
+            sb.append(String.format("  [level %d] %s -> %s: %.3f ms%n", entry.getLevel(), entry.getBinding(),
+                    entry.getImplementation(), entry.getConstructionNanos() / 1e6));
+
+        sb.append(String.format("Critical path (%.3f ms): %s", criticalPathNanos / 1e6, String.join(" -> ", criticalPath)));
+        return sb.toString();
+    }
+}
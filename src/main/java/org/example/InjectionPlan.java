@@ -0,0 +1,118 @@
+package org.example;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Заранее вычисленный план внедрения зависимостей для одного класса.
+ * <p>
+ * Содержит поля с аннотацией {@link AutoInjectable} и конструкторы реализаций,
+ * найденные по конфигурации. Необязательные поля без реализации в план не попадают,
+ * а поля {@link Optional} без реализации получают {@link Optional#empty()}. Поля {@link Supplier}
+ * получают готовую фабрику реализации, общую для всех объектов класса.
+ * План строится один раз при первом внедрении в объект класса и хранится
+ * в {@link ClassValue}, поэтому освобождается вместе с классом при выгрузке его загрузчика.
+ * </p>
+ *
+ * @see Injector
+ * @author ilabe
+ * @version 1.0
+ */
+final class InjectionPlan
+{
+    /**
+     * Одно поле плана: поле, интерфейс привязки и конструктор реализации
+     * либо постоянное значение, которое внедряется без создания экземпляров.
+     */
+    static final class Entry
+    {
+        private final Field field;
+        private final Class<?> binding;
+        private final Constructor<?> constructor;
+        private final boolean optional;
+        private final Object constant;
+
+        /**
+         * Создает элемент плана, для которого при каждом внедрении создается экземпляр реализации.
+         *
+         * @param field доступное для записи поле с аннотацией {@link AutoInjectable}
+         * @param binding интерфейс, реализация которого внедряется в поле
+         * @param constructor конструктор по умолчанию класса реализации
+         * @param optional true, если поле имеет тип {@link Optional} и значение нужно обернуть
+         */
+        Entry(Field field, Class<?> binding, Constructor<?> constructor, boolean optional)
+        {
+            this.field = field;
+            this.binding = binding;
+            this.constructor = constructor;
+            this.optional = optional;
+            this.constant = null;
+        }
+
+        /**
+         * Создает элемент плана с постоянным значением поля.
+         *
+         * @param field доступное для записи поле с аннотацией {@link AutoInjectable}
+         * @param binding интерфейс, указанный в типе поля
+         * @param constant значение поля: {@link Optional#empty()} или фабрика {@link Supplier}
+         */
+        Entry(Field field, Class<?> binding, Object constant)
+        {
+            this.field = field;
+            this.binding = binding;
+            this.constructor = null;
+            this.optional = false;
+            this.constant = constant;
+        }
+
+        /** @return поле для внедрения */
+        Field getField()
+        {
+            return field;
+        }
+
+        /** @return интерфейс, реализация которого внедряется в поле */
+        Class<?> getBinding()
+        {
+            return binding;
+        }
+
+        /** @return конструктор по умолчанию класса реализации или null для постоянного значения */
+        Constructor<?> getConstructor()
+        {
+            return constructor;
+        }
+
+        /** @return true, если значение поля оборачивается в {@link Optional} */
+        boolean isOptional()
+        {
+            return optional;
+        }
+
+        /** @return постоянное значение поля или null, если значение создается при внедрении */
+        Object getConstant()
+        {
+            return constant;
+        }
+    }
+
+    private final Entry[] entries;
+
+    /**
+     * Создает план внедрения.
+     *
+     * @param entries элементы плана в порядке объявления полей
+     */
+    InjectionPlan(Entry[] entries)
+    {
+        this.entries = entries;
+    }
+
+    /** @return элементы плана в порядке объявления полей */
+    Entry[] getEntries()
+    {
+        return entries;
+    }
+}
@@ -2,8 +2,29 @@ package org.example;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 /**
  * Класс для автоматического внедрения зависимостей в объекты.
@@ -29,8 +50,121 @@ import java.util.Properties;
 public class Injector
 {
 
+    /** Общий пустой массив аргументов конструктора, чтобы не создавать его при каждом вызове. */
+    private static final Object[] NO_ARGS = {};
+
+    /**
+     * Поля с аннотацией {@link AutoInjectable} каждого класса, уже доступные для записи.
+     * <p>
+     * Значения хранятся в самом классе через {@link ClassValue}, поэтому не удерживают
+     * его загрузчик и освобождаются при выгрузке класса.
+     * </p>
+     */
+    private static final ClassValue<Field[]> INJECTABLE_FIELDS = new ClassValue<>()
+    {
+        @Override
+        protected Field[] computeValue(Class<?> type)
+        {
+            List<Field> result = new ArrayList<>();
+
+            for (Field field : type.getDeclaredFields())
+            {
+                if (field.isAnnotationPresent(AutoInjectable.class))
+                {
+                    field.setAccessible(true);
+                    result.add(field);
+                }
+            }
+            return result.toArray(new Field[0]);
+        }
+    };
+
+    /** Конструкторы по умолчанию классов реализаций, хранящиеся в самих классах. */
+    private static final ClassValue<Constructor<?>> DEFAULT_CONSTRUCTORS = new ClassValue<>()
+    {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type)
+        {
+            try
+            {
+                return type.getDeclaredConstructor();
+            }
+            catch (NoSuchMethodException e)
+            {
+                throw new RuntimeException("Failed to create an instance of the class: " + type.getName(), e);
+            }
+        }
+    };
+
+    /**
+     * Фабрики классов реализаций для полей {@link Supplier}, хранящиеся в самих классах.
+     * <p>
+     * Фабрика собирается через {@link LambdaMetafactory} и вызывает конструктор напрямую,
+     * без рефлексии и обращений к Injector. Если класс недоступен для такой сборки
+     * (например, загружен чужим загрузчиком), используется закэшированный конструктор.
+     * </p>
+     */
+    private static final ClassValue<Supplier<?>> FACTORIES = new ClassValue<>()
+    {
+        @Override
+        protected Supplier<?> computeValue(Class<?> type)
+        {
+            MethodHandle factory;
+
+            try
+            {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+                MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class));
+                CallSite site = LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class),
+                        MethodType.methodType(Object.class), constructor, MethodType.methodType(type));
+
+                factory = site.getTarget();
+            }
+            catch (ReflectiveOperationException | LambdaConversionException e)
+            {
+                Constructor<?> constructor = DEFAULT_CONSTRUCTORS.get(type);
+                return () -> createInstance(constructor);
+            }
+
+            try
+            {
+                return (Supplier<?>) factory.invoke();
+            }
+            catch (RuntimeException | Error e)
+            {
+                throw e;
+            }
+            catch (Throwable e)
+            {
+                throw new RuntimeException("Failed to create a factory for the class: " + type.getName(), e);
+            }
+        }
+    };
+
     private final Properties properties;
 
+    /**
+     * Планы внедрения по классам объектов.
+     * <p>
+     * План зависит от конфигурации этого Injector, поэтому {@link ClassValue} свой у каждого экземпляра.
+     * Сам план хранится в классе объекта и ссылается только на классы, видимые его загрузчику.
+     * </p>
+     */
+    private final ClassValue<InjectionPlan> plans = new ClassValue<>()
+    {
+        @Override
+        protected InjectionPlan computeValue(Class<?> type)
+        {
+            return buildPlan(type);
+        }
+    };
+
+    /** Синглтоны, созданные {@link #bootstrap()}, по типу интерфейса. */
+    private final Map<Class<?>, Object> singletons = new ConcurrentHashMap<>();
+
+    /** Признак того, что выполнена жадная инициализация и поля получают синглтоны. */
+    private volatile boolean bootstrapped;
+
     /**
      * Загружает свойства из файла конфигурации.
      * <p>
@@ -41,12 +175,12 @@ public class Injector
      * @return объект Properties с загруженными настройками
      * @throws RuntimeException если файл конфигурации не найден или произошла ошибка чтения
      */
-    private Properties loadProperties()
+    private static Properties loadProperties()
     {
         Properties props = new Properties();
         String configFile = "properties";
 
-        try(InputStream input = getClass().getClassLoader().getResourceAsStream(configFile))
+        try(InputStream input = Injector.class.getClassLoader().getResourceAsStream(configFile))
         {
             if (input == null)
                 throw new RuntimeException("Configuration file not found " + configFile + ". Make sure that the file is located in src/main/resources/");
@@ -61,30 +195,109 @@ public class Injector
     }
 
     /**
-     * Внедряет зависимость в конкретное поле объекта.
+     * Строит план внедрения для класса.
+     * <p>
+     * Для каждого поля с аннотацией {@link AutoInjectable} проверяет, что его тип является интерфейсом
+     * (или {@link Optional} интерфейса), находит реализацию в конфигурации и ее конструктор.
+     * Класс реализации загружается загрузчиком класса объекта, чтобы план не ссылался
+     * на классы чужих загрузчиков. Необязательные поля без реализации в план не попадают.
+     * </p>
+     *
+     * @param type класс объекта
+     * @return план внедрения
+     * @throws RuntimeException если поле не является интерфейсом или обязательную реализацию не удалось найти
+     */
+    private InjectionPlan buildPlan(Class<?> type)
+    {
+        List<InjectionPlan.Entry> entries = new ArrayList<>();
+
+        for (Field field : INJECTABLE_FIELDS.get(type))
+        {
+            try
+            {
+                boolean optional = field.getType() == Optional.class;
+                boolean factory = field.getType() == Supplier.class;
+                Class<?> binding = optional || factory ? elementType(field) : field.getType();
+
+                if (!binding.isInterface())
+                    throw new RuntimeException("Field " + field.getName() + " should be an interface, but it has a type: " + binding);
+
+                String implementationClassName = lookupImplementation(binding);
+
+                if (implementationClassName == null && (optional || !field.getAnnotation(AutoInjectable.class).required()))
+                {
+                    if (optional)
+                        entries.add(new InjectionPlan.Entry(field, binding, Optional.empty()));
+
+                    continue;
+                }
+
+                if (implementationClassName == null)
+                    implementationClassName = findImplementation(binding);
+
+                Class<?> implementation = loadClass(implementationClassName, type.getClassLoader());
+
+                if (factory)
+                    entries.add(new InjectionPlan.Entry(field, binding, FACTORIES.get(implementation)));
+                else
+                    entries.add(new InjectionPlan.Entry(field, binding, DEFAULT_CONSTRUCTORS.get(implementation), optional));
+            }
+            catch (Exception e)
+            {
+                throw new RuntimeException("Injection error in the field: " + field.getName(), e);
+            }
+        }
+        return new InjectionPlan(entries.toArray(new InjectionPlan.Entry[0]));
+    }
+
+    /**
+     * Определяет тип элемента поля {@code Optional<T>} или {@code Supplier<T>}.
+     *
+     * @param field поле типа {@link Optional} или {@link Supplier}
+     * @return класс T
+     * @throws RuntimeException если тип элемента не задан конкретным классом
+     */
+    private Class<?> elementType(Field field)
+    {
+        if (field.getGenericType() instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments()[0] instanceof Class<?> elementType)
+            return elementType;
+
+        throw new RuntimeException("Field " + field.getName() + " should be parameterized with an interface, but it has a type: " + field.getGenericType());
+    }
+
+    /**
+     * Внедряет зависимость в конкретное поле объекта по элементу плана.
      * <p>
-     * Проверяет, что тип поля является интерфейсом, находит соответствующую реализацию
-     * в конфигурации, создает экземпляр и устанавливает значение поля.
+     * Создает экземпляр реализации или берет готовый из переданной таблицы синглтонов
+     * и устанавливает значение поля, при необходимости оборачивая его в {@link Optional}.
+     * Постоянные значения плана (пустой {@link Optional}, фабрика {@link Supplier}) устанавливаются как есть.
      * </p>
      *
      * @param obj объект, содержащий поле для внедрения
-     * @param field поле, которое нужно инициализировать
-     * @throws RuntimeException если поле не является интерфейсом или произошла ошибка внедрения
+     * @param entry элемент плана с полем и конструктором реализации
+     * @param instances синглтоны по интерфейсам или null, если нужно создать новый экземпляр
+     * @throws RuntimeException если произошла ошибка внедрения
      */
-    private void injectField(Object obj, Field field)
+    private void injectField(Object obj, InjectionPlan.Entry entry, Map<Class<?>, Object> instances)
     {
+        Field field = entry.getField();
+
         try
         {
-            Class<?> fieldType = field.getType();
+            Object value = entry.getConstant();
+
+            if (entry.getConstructor() != null)
+            {
+                Object implementation = instances != null ? instances.get(entry.getBinding()) : null;
 
-            if (!fieldType.isInterface())
-                throw new RuntimeException("Field " + field.getName() + " should be an interface, but it has a type: " + fieldType);
+                if (implementation == null)
+                    implementation = createInstance(entry.getConstructor());
 
-            String implementationClassName = findImplementation(fieldType);
-            Object implementation = createInstance(implementationClassName);
+                value = entry.isOptional() ? Optional.of(implementation) : implementation;
+            }
 
-            field.setAccessible(true);
-            field.set(obj, implementation);
+            field.set(obj, value);
         }
         catch (Exception e)
         {
@@ -101,11 +314,26 @@ public class Injector
      */
     private String findImplementation(Class<?> interfaceType)
     {
-        String key = interfaceType.getName();
-        String implementation = properties.getProperty(key);
+        String implementation = lookupImplementation(interfaceType);
+
+        if (implementation == null)
+            throw new RuntimeException("No implementation found for the interface: " + interfaceType.getName() + ". Check resource/properties");
+
+        return implementation;
+    }
+
+    /**
+     * Ищет имя класса реализации для заданного интерфейса в конфигурации без выбрасывания исключений.
+     *
+     * @param interfaceType тип интерфейса, для которого нужно найти реализацию
+     * @return полное имя класса реализации или null, если реализация не настроена
+     */
+    private String lookupImplementation(Class<?> interfaceType)
+    {
+        String implementation = properties.getProperty(interfaceType.getName());
 
         if (implementation == null || implementation.trim().isEmpty())
-            throw new RuntimeException("No implementation found for the interface: " + key + ". Check resource/properties");
+            return null;
 
         return implementation.trim();
     }
@@ -121,15 +349,26 @@ public class Injector
      * @throws RuntimeException если не удалось создать экземпляр класса
      */
     private Object createInstance(String className)
+    {
+        return createInstance(DEFAULT_CONSTRUCTORS.get(loadClass(className)));
+    }
+
+    /**
+     * Создает экземпляр класса с помощью закэшированного конструктора по умолчанию.
+     *
+     * @param constructor конструктор по умолчанию класса
+     * @return экземпляр класса
+     * @throws RuntimeException если не удалось создать экземпляр класса
+     */
+    private static Object createInstance(Constructor<?> constructor)
     {
         try
         {
-            Class<?> clazz = Class.forName(className);
-            return clazz.getDeclaredConstructor().newInstance();
+            return constructor.newInstance(NO_ARGS);
         }
         catch (Exception e)
         {
-            throw new RuntimeException("Failed to create an instance of the class: " + className, e);
+            throw new RuntimeException("Failed to create an instance of the class: " + constructor.getDeclaringClass().getName(), e);
         }
     }
 
@@ -138,6 +377,7 @@ public class Injector
      * <p>
      * Сканирует все поля объекта на наличие аннотации {@link AutoInjectable}
      * и инициализирует их соответствующими реализациями из конфигурации.
+     * Результат сканирования кэшируется в плане внедрения для класса объекта.
      * </p>
      *
      * @param obj объект, в который нужно внедрить зависимости
@@ -150,16 +390,255 @@ public class Injector
         if (obj == null)
             throw new IllegalArgumentException("Inject object cannot be null");
 
-        Class<?> clazz = obj.getClass();
-        Field[] fields = clazz.getDeclaredFields();
+        Map<Class<?>, Object> instances = bootstrapped ? singletons : null;
 
-        for (Field field : fields)
-            if (field.isAnnotationPresent(AutoInjectable.class))
-                injectField(obj, field);
+        for (InjectionPlan.Entry entry : plans.get(obj.getClass()).getEntries())
+            injectField(obj, entry, instances);
 
         return obj;
     }
 
+    /**
+     * Жадно создает синглтоны для всех привязок из файла конфигурации.
+     * <p>
+     * Строит граф зависимостей между реализациями по их полям с аннотацией {@link AutoInjectable},
+     * разбивает его на уровни и создает привязки одного уровня параллельно на всех ядрах.
+     * Каждый синглтон получает в свои поля уже созданные синглтоны предыдущих уровней.
+     * После успешного завершения {@link #inject(Object)} внедряет синглтоны вместо новых экземпляров.
+     * </p>
+     *
+     * @return отчет со временем создания каждой привязки и критическим путем
+     * @throws RuntimeException если граф содержит цикл, зависимость не настроена или реализацию не удалось создать
+     */
+    public BootstrapReport bootstrap()
+    {
+        long start = System.nanoTime();
+
+        Map<Class<?>, String> implementations = new HashMap<>();
+        for (String key : properties.stringPropertyNames())
+            implementations.put(loadClass(key), findImplementation(loadClass(key)));
+
+        Map<Class<?>, List<Class<?>>> dependencies = new HashMap<>();
+        for (Map.Entry<Class<?>, String> binding : implementations.entrySet())
+            dependencies.put(binding.getKey(), findDependencies(loadClass(binding.getValue())));
+
+        List<List<Class<?>>> levels = computeLevels(dependencies);
+        Map<Class<?>, Object> created = new HashMap<>();
+        Map<Class<?>, Long> times = new HashMap<>();
+        List<BootstrapReport.Entry> entries = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()))
+        {
+            for (int level = 0; level < levels.size(); level++)
+            {
+                List<Callable<Object>> tasks = new ArrayList<>();
+                for (Class<?> binding : levels.get(level))
+                    tasks.add(() -> createSingleton(binding, implementations.get(binding), created, times));
+
+                List<Future<Object>> results = executor.invokeAll(tasks);
+
+                for (int i = 0; i < results.size(); i++)
+                {
+                    Class<?> binding = levels.get(level).get(i);
+                    created.put(binding, results.get(i).get());
+                    entries.add(new BootstrapReport.Entry(binding.getName(), implementations.get(binding), level, times.get(binding)));
+                }
+            }
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException("Eager bootstrap failed", e.getCause());
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Eager bootstrap was interrupted", e);
+        }
+
+        singletons.putAll(created);
+        bootstrapped = true;
+
+        return buildReport(levels, entries, dependencies, times, System.nanoTime() - start);
+    }
+
+    /**
+     * Возвращает синглтон, созданный {@link #bootstrap()}, для заданного интерфейса.
+     *
+     * @param type тип интерфейса
+     * @param <T> тип интерфейса
+     * @return синглтон, реализующий интерфейс
+     * @throws IllegalStateException если для интерфейса нет синглтона (не вызван bootstrap() или нет привязки)
+     */
+    public <T> T getSingleton(Class<T> type)
+    {
+        Object singleton = singletons.get(type);
+
+        if (singleton == null)
+            throw new IllegalStateException("No singleton for the interface: " + type.getName() + ". Call bootstrap() first");
+
+        return type.cast(singleton);
+    }
+
+    /**
+     * Загружает класс по его полному имени.
+     *
+     * @param className полное имя класса
+     * @return загруженный класс
+     * @throws RuntimeException если класс не найден
+     */
+    private Class<?> loadClass(String className)
+    {
+        return loadClass(className, getClass().getClassLoader());
+    }
+
+    /**
+     * Загружает класс по его полному имени заданным загрузчиком.
+     *
+     * @param className полное имя класса
+     * @param loader загрузчик класса или null для загрузчика Injector
+     * @return загруженный класс
+     * @throws RuntimeException если класс не найден
+     */
+    private Class<?> loadClass(String className, ClassLoader loader)
+    {
+        try
+        {
+            return Class.forName(className.trim(), true, loader != null ? loader : getClass().getClassLoader());
+        }
+        catch (ClassNotFoundException e)
+        {
+            throw new RuntimeException("Class from the configuration not found: " + className, e);
+        }
+    }
+
+    /**
+     * Находит привязки, от которых зависит реализация, по плану внедрения для ее класса.
+     * <p>
+     * Необязательные поля без реализации и поля {@link Supplier}, создающие новые экземпляры,
+     * зависимостями не считаются.
+     * </p>
+     *
+     * @param implementation класс реализации
+     * @return список интерфейсов, синглтоны которых нужны реализации
+     * @throws RuntimeException если обязательное поле ссылается на интерфейс без привязки
+     */
+    private List<Class<?>> findDependencies(Class<?> implementation)
+    {
+        List<Class<?>> result = new ArrayList<>();
+
+        for (InjectionPlan.Entry entry : plans.get(implementation).getEntries())
+            if (entry.getConstructor() != null)
+                result.add(entry.getBinding());
+
+        return result;
+    }
+
+    /**
+     * Разбивает граф зависимостей на уровни: привязки одного уровня не зависят друг от друга
+     * и зависят только от привязок предыдущих уровней.
+     *
+     * @param dependencies зависимости каждой привязки
+     * @return список уровней, начиная с привязок без зависимостей
+     * @throws RuntimeException если граф содержит цикл
+     */
+    private List<List<Class<?>>> computeLevels(Map<Class<?>, List<Class<?>>> dependencies)
+    {
+        Map<Class<?>, Integer> levelOf = new HashMap<>();
+        List<List<Class<?>>> levels = new ArrayList<>();
+
+        while (levelOf.size() < dependencies.size())
+        {
+            List<Class<?>> level = new ArrayList<>();
+
+            for (Map.Entry<Class<?>, List<Class<?>>> node : dependencies.entrySet())
+                if (!levelOf.containsKey(node.getKey()) && levelOf.keySet().containsAll(node.getValue()))
+                    level.add(node.getKey());
+
+            if (level.isEmpty())
+                throw new RuntimeException("Cyclic dependency between bindings: " + dependencies.keySet().stream()
+                        .filter(type -> !levelOf.containsKey(type)).map(Class::getName).toList());
+
+            for (Class<?> type : level)
+                levelOf.put(type, levels.size());
+
+            levels.add(level);
+        }
+        return levels;
+    }
+
+    /**
+     * Создает синглтон одной привязки и внедряет в него синглтоны ее зависимостей.
+     *
+     * @param binding интерфейс привязки
+     * @param implementationClassName полное имя класса реализации
+     * @param created синглтоны предыдущих уровней
+     * @param times общая таблица времени создания привязок
+     * @return созданный синглтон
+     * @throws RuntimeException если не удалось создать экземпляр или внедрить зависимости
+     */
+    private Object createSingleton(Class<?> binding, String implementationClassName,
+                                   Map<Class<?>, Object> created, Map<Class<?>, Long> times)
+    {
+        long start = System.nanoTime();
+        Object instance = createInstance(implementationClassName);
+        long elapsed = System.nanoTime() - start;
+
+        for (InjectionPlan.Entry entry : plans.get(instance.getClass()).getEntries())
+            injectField(instance, entry, created);
+
+        synchronized (times)
+        {
+            times.put(binding, elapsed);
+        }
+        return instance;
+    }
+
+    /**
+     * Формирует отчет и вычисляет критический путь - цепочку зависимостей
+     * с наибольшим суммарным временем создания.
+     *
+     * @param levels уровни графа зависимостей
+     * @param entries записи по каждой привязке, упорядоченные по уровням
+     * @param dependencies зависимости каждой привязки
+     * @param times время создания каждой привязки
+     * @param totalNanos общее время инициализации
+     * @return отчет о жадной инициализации
+     */
+    private BootstrapReport buildReport(List<List<Class<?>>> levels, List<BootstrapReport.Entry> entries,
+                                        Map<Class<?>, List<Class<?>>> dependencies, Map<Class<?>, Long> times, long totalNanos)
+    {
+        Map<Class<?>, Long> pathNanos = new HashMap<>();
+        Map<Class<?>, Class<?>> previous = new HashMap<>();
+        Class<?> last = null;
+
+        // Уровни обходятся по порядку, поэтому зависимости обработаны раньше зависящих от них привязок
+        for (Class<?> binding : levels.stream().flatMap(List::stream).toList())
+        {
+            long longest = 0;
+
+            for (Class<?> dependency : dependencies.get(binding))
+            {
+                if (pathNanos.get(dependency) >= longest)
+                {
+                    longest = pathNanos.get(dependency);
+                    previous.put(binding, dependency);
+                }
+            }
+
+            pathNanos.put(binding, longest + times.get(binding));
+
+            if (last == null || pathNanos.get(binding) > pathNanos.get(last))
+                last = binding;
+        }
+
+        List<String> criticalPath = new ArrayList<>();
+        for (Class<?> node = last; node != null; node = previous.get(node))
+            criticalPath.add(node.getName());
+
+        Collections.reverse(criticalPath);
+        return new BootstrapReport(entries, criticalPath, last == null ? 0 : pathNanos.get(last), totalNanos);
+    }
+
     /**
      * Создает новый экземпляр Injector и загружает конфигурацию.
      * <p>
@@ -168,7 +647,20 @@ public class Injector
      */
     public Injector()
     {
-        this.properties = loadProperties();
+        this(loadProperties());
+    }
+
+    /**
+     * Создает новый экземпляр Injector с заданной конфигурацией.
+     * <p>
+     * Используется в тестах для графов привязок, которых нет в файле "properties".
+     * </p>
+     *
+     * @param properties конфигурация в формате полное_имя_интерфейса=полное_имя_класса_реализации
+     */
+    Injector(Properties properties)
+    {
+        this.properties = properties;
     }
 
     /**
@@ -0,0 +1,304 @@
+package org.example;
+
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Генератор нагрузки на {@link Injector}.
+ * <p>
+ * Внедряет зависимости в N объектов {@link SomeBean} в T потоках и выводит пропускную способность,
+ * перцентили задержки одного вызова {@link Injector#inject(Object)}, статистику сборщика мусора
+ * и выделенную память. Позволяет воспроизвести нагрузку на внедрение без отдельного стенда.
+ * </p>
+ *
+ * <p><b>Параметры командной строки:</b></p>
+ * <ul>
+ *   <li>{@code --beans N} - число внедрений (по умолчанию 1000000)</li>
+ *   <li>{@code --threads T} - число потоков (по умолчанию число ядер)</li>
+ *   <li>{@code --scope prototype|singleton} - новые экземпляры или синглтоны после {@link Injector#bootstrap()}</li>
+ *   <li>{@code --backend platform|virtual} - платформенные или виртуальные потоки</li>
+ *   <li>{@code --warmup W} - число прогревочных внедрений (по умолчанию 100000)</li>
+ * </ul>
+ *
+ * <p><b>Пример запуска:</b></p>
+ * <pre>
+ * java org.example.Main load --beans 5000000 --threads 8 --scope singleton --backend virtual
+ * </pre>
+ *
+ * @see Main
+ * @see Injector
+ * @author ilabe
+ * @version 1.0
+ */
+public class LoadGenerator
+{
+    /** Описание параметров командной строки. */
+    public static final String USAGE = "Usage: load [--beans N] [--threads T] [--scope prototype|singleton] "
+            + "[--backend platform|virtual] [--warmup W]";
+
+    private final int beans;
+    private final int threads;
+    private final boolean singleton;
+    private final boolean virtual;
+    private final int warmup;
+
+    /**
+     * Создает генератор нагрузки.
+     *
+     * @param beans число внедрений
+     * @param threads число потоков
+     * @param singleton true для внедрения синглтонов после {@link Injector#bootstrap()}
+     * @param virtual true для виртуальных потоков
+     * @param warmup число прогревочных внедрений
+     * @throws IllegalArgumentException если число внедрений или потоков не положительно
+     */
+    public LoadGenerator(int beans, int threads, boolean singleton, boolean virtual, int warmup)
+    {
+        if (beans <= 0 || threads <= 0 || warmup < 0)
+            throw new IllegalArgumentException("beans and threads must be positive, warmup must not be negative");
+
+        this.beans = beans;
+        this.threads = threads;
+        this.singleton = singleton;
+        this.virtual = virtual;
+        this.warmup = warmup;
+    }
+
+    /**
+     * Создает генератор нагрузки по аргументам командной строки.
+     *
+     * @param args аргументы после имени режима
+     * @return настроенный генератор нагрузки
+     * @throws IllegalArgumentException если аргумент неизвестен или имеет неверное значение
+     */
+    public static LoadGenerator fromArgs(String[] args)
+    {
+        int beans = 1_000_000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean singleton = false;
+        boolean virtual = false;
+        int warmup = 100_000;
+
+        for (int i = 0; i < args.length; i += 2)
+        {
+            if (i + 1 >= args.length)
+                throw new IllegalArgumentException("Missing value for the option: " + args[i] + ". " + USAGE);
+
+            String value = args[i + 1];
+
+            switch (args[i])
+            {
+                case "--beans" -> beans = parseCount(args[i], value);
+                case "--threads" -> threads = parseCount(args[i], value);
+                case "--warmup" -> warmup = parseCount(args[i], value);
+                case "--scope" -> singleton = parseChoice(args[i], value, "prototype", "singleton");
+                case "--backend" -> virtual = parseChoice(args[i], value, "platform", "virtual");
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i] + ". " + USAGE);
+            }
+        }
+        return new LoadGenerator(beans, threads, singleton, virtual, warmup);
+    }
+
+    /**
+     * Разбирает числовое значение параметра.
+     *
+     * @param option имя параметра
+     * @param value значение параметра
+     * @return число
+     * @throws IllegalArgumentException если значение не является целым числом
+     */
+    private static int parseCount(String option, String value)
+    {
+        try
+        {
+            return Integer.parseInt(value);
+        }
+        catch (NumberFormatException e)
+        {
+            throw new IllegalArgumentException("Option " + option + " expects a number, but got: " + value, e);
+        }
+    }
+
+    /**
+     * Разбирает значение параметра с двумя вариантами.
+     *
+     * @param option имя параметра
+     * @param value значение параметра
+     * @param first первый вариант
+     * @param second второй вариант
+     * @return true, если выбран второй вариант
+     * @throws IllegalArgumentException если значение не совпадает ни с одним вариантом
+     */
+    private static boolean parseChoice(String option, String value, String first, String second)
+    {
+        if (value.equals(first))
+            return false;
+
+        if (value.equals(second))
+            return true;
+
+        throw new IllegalArgumentException("Option " + option + " expects " + first + " or " + second + ", but got: " + value);
+    }
+
+    /**
+     * Запускает нагрузку и выводит результаты.
+     *
+     * @param out поток для вывода результатов
+     * @throws RuntimeException если внедрение в одном из потоков завершилось ошибкой
+     */
+    public void run(PrintStream out)
+    {
+        Injector injector = new Injector();
+
+        if (singleton)
+            out.println(injector.bootstrap());
+
+        for (int i = 0; i < warmup; i++)
+            injector.inject(new SomeBean());
+
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[][] latencies = new long[threads][];
+        long[] allocated = new long[threads];
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTime();
+        long totalAllocatedBefore = threadBean.getTotalThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        ThreadFactory factory = virtual ? Thread.ofVirtual().factory() : Thread.ofPlatform().factory();
+        List<Future<?>> workers = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(factory))
+        {
+            for (int t = 0; t < threads; t++)
+            {
+                int worker = t;
+                int count = beans / threads + (t < beans % threads ? 1 : 0);
+                workers.add(executor.submit(() -> runWorker(injector, count, worker, latencies, allocated)));
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long totalAllocatedAfter = threadBean.getTotalThreadAllocatedBytes();
+
+        for (Future<?> worker : workers)
+        {
+            try
+            {
+                worker.get();
+            }
+            catch (ExecutionException e)
+            {
+                throw new RuntimeException("Load worker failed", e.getCause());
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Load generator was interrupted", e);
+            }
+        }
+
+        long[] all = merge(latencies);
+        Arrays.sort(all);
+
+        out.printf("Load: %d beans, %d %s threads, %s scope%n", beans, threads, virtual ? "virtual" : "platform",
+                singleton ? "singleton" : "prototype");
+        out.printf("Throughput: %.0f injections/s (%.3f s)%n", beans / (elapsed / 1e9), elapsed / 1e9);
+        out.printf("Latency: p50=%d ns, p99=%d ns, p999=%d ns, max=%d ns%n", percentile(all, 0.50),
+                percentile(all, 0.99), percentile(all, 0.999), all[all.length - 1]);
+        out.printf("GC: %d collections, %d ms%n", gcCount() - gcCountBefore, gcTime() - gcTimeBefore);
+
+        // Общий счетчик учитывает и виртуальные потоки, поэтому работает для обоих вариантов --backend
+        if (totalAllocatedBefore >= 0 && totalAllocatedAfter >= 0)
+            out.printf("Allocated: %d bytes total, %.1f bytes per injection (including the bean and the generator itself)%n",
+                    totalAllocatedAfter - totalAllocatedBefore, (totalAllocatedAfter - totalAllocatedBefore) / (double) beans);
+        else
+            out.println("Allocated: n/a (thread allocation accounting is disabled in this JVM)");
+
+        if (!virtual && Arrays.stream(allocated).allMatch(bytes -> bytes >= 0))
+            out.printf("Allocated in workers: %.1f bytes per injection (including the bean), per thread: %s%n",
+                    Arrays.stream(allocated).sum() / (double) beans, Arrays.toString(allocated));
+    }
+
+    /**
+     * Выполняет внедрения в одном потоке и сохраняет задержку каждого вызова.
+     *
+     * @param injector общий Injector
+     * @param count число внедрений в этом потоке
+     * @param worker номер потока
+     * @param latencies задержки по потокам
+     * @param allocated выделенная память по потокам (-1, если не измеряется, например в виртуальном потоке)
+     */
+    private static void runWorker(Injector injector, int count, int worker, long[][] latencies, long[] allocated)
+    {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] own = new long[count];
+        long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+
+        for (int i = 0; i < count; i++)
+        {
+            SomeBean bean = new SomeBean();
+            long start = System.nanoTime();
+            injector.inject(bean);
+            own[i] = System.nanoTime() - start;
+        }
+
+        long allocatedAfter = threadBean.getCurrentThreadAllocatedBytes();
+        allocated[worker] = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+        latencies[worker] = own;
+    }
+
+    /**
+     * Объединяет задержки всех потоков в один массив.
+     *
+     * @param latencies задержки по потокам
+     * @return все задержки
+     */
+    private static long[] merge(long[][] latencies)
+    {
+        long[] all = new long[Arrays.stream(latencies).mapToInt(own -> own.length).sum()];
+        int position = 0;
+
+        for (long[] own : latencies)
+        {
+            System.arraycopy(own, 0, all, position, own.length);
+            position += own.length;
+        }
+        return all;
+    }
+
+    /**
+     * Возвращает перцентиль отсортированного массива.
+     *
+     * @param sorted отсортированные значения
+     * @param fraction доля от 0 до 1
+     * @return значение перцентиля
+     */
+    private static long percentile(long[] sorted, double fraction)
+    {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    /** @return суммарное число сборок мусора */
+    private static long gcCount()
+    {
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        return collectors.stream().mapToLong(gc -> Math.max(0, gc.getCollectionCount())).sum();
+    }
+
+    /** @return суммарное время сборок мусора в миллисекундах */
+    private static long gcTime()
+    {
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        return collectors.stream().mapToLong(gc -> Math.max(0, gc.getCollectionTime())).sum();
+    }
+}
@@ -1,5 +1,7 @@
 package org.example;
 
+import java.util.Arrays;
+
 /**
  * Главный класс для демонстрации работы Dependency Injection Framework
  *
@@ -11,11 +13,35 @@ public class Main
 
     /**
      * Точка входа в приложение. Демонстрирует работу Injector.
+     * <p>
+     * Если первым аргументом передано {@code load}, запускает {@link LoadGenerator}
+     * с остальными аргументами вместо демонстрации. При неверных параметрах
+     * процесс завершается с кодом 2.
+     * </p>
      *
-     * @param args аргументы командной строки (не используются)
+     * @param args аргументы командной строки: пусто для демонстрации или {@code load [параметры]}
      */
     public static void main(String[] args)
     {
+        if (args.length > 0 && args[0].equals("load"))
+        {
+            LoadGenerator generator = null;
+
+            try
+            {
+                generator = LoadGenerator.fromArgs(Arrays.copyOfRange(args, 1, args.length));
+            }
+            catch (IllegalArgumentException e)
+            {
+                System.err.println(e.getMessage());
+                System.err.println(LoadGenerator.USAGE);
+                System.exit(2);
+            }
+
+            generator.run(System.out);
+            return;
+        }
+
         System.out.println("=== Лабораторная работа 5: Dependency Injection ===\n");
 
         // Показываем проблему (поля null)
@@ -0,0 +1,186 @@
+package org.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.lang.management.ManagementFactory;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Регрессионные тесты выделения памяти на горячем пути {@link Injector#inject(Object)}.
+ * <p>
+ * Прогретый вызов inject() не должен выделять ничего, кроме самих экземпляров зависимостей.
+ * Тесты измеряют выделенные текущим потоком байты через
+ * {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()} и сравнивают
+ * их с прямым созданием тех же зависимостей через {@code new}.
+ * </p>
+ *
+ * <p><b>Бюджет:</b></p>
+ * <p>
+ * Допустимое число лишних байт на один вызов inject() задается системным свойством
+ * {@code inject.allocation.budget} (по умолчанию 0), например:
+ * {@code ./gradlew test -PinjectAllocationBudget=16}
+ * </p>
+ *
+ * @see Injector
+ * @author ilabe
+ * @version 1.0
+ */
+public class AllocationTest_
+{
+    /** Допустимое число лишних байт на один вызов inject(). */
+    private static final long BUDGET = Long.getLong("inject.allocation.budget", 0);
+
+    /** Число операций в одном замере. */
+    private static final int OPERATIONS = 10_000;
+
+    /** Число замеров; берется минимальный, чтобы не учитывать работу JIT-компилятора. */
+    private static final int ATTEMPTS = 20;
+
+    private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Injector injector;
+
+    /**
+     * Синтетический объект с большим числом внедряемых полей.
+     */
+    static class WideBean
+    {
+        @AutoInjectable private SomeInterface field1;
+        @AutoInjectable private SomeOtherInterface field2;
+        @AutoInjectable private SomeInterface field3;
+        @AutoInjectable private SomeOtherInterface field4;
+        @AutoInjectable private SomeInterface field5;
+        @AutoInjectable private SomeOtherInterface field6;
+        @AutoInjectable private SomeInterface field7;
+        @AutoInjectable private SomeOtherInterface field8;
+        @AutoInjectable private SomeInterface field9;
+        @AutoInjectable private SomeOtherInterface field10;
+        @AutoInjectable private SomeInterface field11;
+        @AutoInjectable private SomeOtherInterface field12;
+        @AutoInjectable private SomeInterface field13;
+        @AutoInjectable private SomeOtherInterface field14;
+        @AutoInjectable private SomeInterface field15;
+        @AutoInjectable private SomeOtherInterface field16;
+    }
+
+    @BeforeEach
+    void setUp()
+    {
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "JVM не поддерживает подсчет выделенной потоком памяти");
+
+        threads.setThreadAllocatedMemoryEnabled(true);
+        injector = new Injector();
+    }
+
+    /**
+     * Измеряет число байт, выделяемых одной операцией после прогрева.
+     *
+     * @param operation операция, получающая номер итерации
+     * @return минимальное по всем замерам число байт на операцию
+     */
+    private long bytesPerOperation(IntConsumer operation)
+    {
+        long best = Long.MAX_VALUE;
+
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++)
+        {
+            for (int i = 0; i < OPERATIONS; i++)
+                operation.accept(i);
+
+            long start = threads.getCurrentThreadAllocatedBytes();
+
+            for (int i = 0; i < OPERATIONS; i++)
+                operation.accept(i);
+
+            best = Math.min(best, (threads.getCurrentThreadAllocatedBytes() - start) / OPERATIONS);
+        }
+        return best;
+    }
+
+    /**
+     * Проверяет, что inject() выделяет не больше, чем прямое создание зависимостей плюс бюджет.
+     *
+     * @param name название сценария для сообщения об ошибке
+     * @param inject операция внедрения
+     * @param dependencies прямое создание тех же зависимостей
+     */
+    private void assertWithinBudget(String name, IntConsumer inject, IntConsumer dependencies)
+    {
+        long injectBytes = bytesPerOperation(inject);
+        long dependencyBytes = bytesPerOperation(dependencies);
+
+        assertTrue(injectBytes - dependencyBytes <= BUDGET, name + ": inject() выделяет " + injectBytes
+                + " байт при " + dependencyBytes + " байт на зависимости, бюджет " + BUDGET + " байт");
+    }
+
+    @Test
+    void testWarmInjectOfSomeBeanAllocatesOnlyDependencies()
+    {
+        SomeBean[] beans = new SomeBean[OPERATIONS];
+        Object[] sink = new Object[OPERATIONS * 2];
+
+        for (int i = 0; i < OPERATIONS; i++)
+            beans[i] = new SomeBean();
+
+        assertWithinBudget("SomeBean", i -> injector.inject(beans[i]), i ->
+        {
+            sink[2 * i] = new SomeImpl();
+            sink[2 * i + 1] = new SODoer();
+        });
+    }
+
+    @Test
+    void testWarmInjectOfWideBeanAllocatesOnlyDependencies()
+    {
+        WideBean[] beans = new WideBean[OPERATIONS];
+        Object[] sink = new Object[16];
+
+        for (int i = 0; i < OPERATIONS; i++)
+            beans[i] = new WideBean();
+
+        assertWithinBudget("WideBean", i -> injector.inject(beans[i]), i ->
+        {
+            for (int j = 0; j < sink.length; j += 2)
+            {
+                sink[j] = new SomeImpl();
+                sink[j + 1] = new SODoer();
+            }
+        });
+    }
+
+    @Test
+    void testWarmInjectAfterBootstrapAllocatesNothing()
+    {
+        injector.bootstrap();
+
+        SomeBean[] beans = new SomeBean[OPERATIONS];
+        WideBean[] wideBeans = new WideBean[OPERATIONS];
+
+        for (int i = 0; i < OPERATIONS; i++)
+        {
+            beans[i] = new SomeBean();
+            wideBeans[i] = new WideBean();
+        }
+
+        assertWithinBudget("SomeBean после bootstrap()", i -> injector.inject(beans[i]), i -> { });
+        assertWithinBudget("WideBean после bootstrap()", i -> injector.inject(wideBeans[i]), i -> { });
+    }
+
+    @Test
+    void testInjectedSupplierAllocatesOnlyNewInstances()
+    {
+        class FactoryBean
+        {
+            @AutoInjectable
+            private Supplier<SomeInterface> factory;
+        }
+
+        Supplier<SomeInterface> factory = injector.inject(new FactoryBean()).factory;
+        Object[] sink = new Object[OPERATIONS];
+
+        assertWithinBudget("Supplier<SomeInterface>", i -> sink[i] = factory.get(), i -> sink[i] = new SomeImpl());
+    }
+}
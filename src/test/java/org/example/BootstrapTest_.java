@@ -0,0 +1,145 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Properties;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты жадной инициализации {@link Injector#bootstrap()} на графах с зависимостями.
+ * <p>
+ * Конфигурация задается напрямую, чтобы проверить разбиение на уровни, обнаружение циклов,
+ * критический путь и внедрение синглтонов предыдущих уровней.
+ * </p>
+ *
+ * <p><b>Граф "ромб":</b> A &lt;- {B, C} &lt;- D, где C создается заметно дольше B.</p>
+ *
+ * @see Injector
+ * @see BootstrapReport
+ * @author ilabe
+ * @version 1.0
+ */
+public class BootstrapTest_
+{
+    interface A { }
+    interface B { }
+    interface C { }
+    interface D { }
+
+    static class AImpl implements A
+    {
+    }
+
+    static class BImpl implements B
+    {
+        @AutoInjectable
+        A a;
+    }
+
+    static class CImpl implements C
+    {
+        @AutoInjectable
+        A a;
+
+        public CImpl() throws InterruptedException
+        {
+            Thread.sleep(100);
+        }
+    }
+
+    static class DImpl implements D
+    {
+        @AutoInjectable
+        B b;
+
+        @AutoInjectable
+        C c;
+    }
+
+    interface First { }
+    interface Second { }
+
+    static class FirstImpl implements First
+    {
+        @AutoInjectable
+        Second second;
+    }
+
+    static class SecondImpl implements Second
+    {
+        @AutoInjectable
+        First first;
+    }
+
+    /**
+     * Создает конфигурацию из пар интерфейс - реализация.
+     */
+    private static Properties bindings(Class<?>... pairs)
+    {
+        Properties properties = new Properties();
+
+        for (int i = 0; i < pairs.length; i += 2)
+            properties.setProperty(pairs[i].getName(), pairs[i + 1].getName());
+
+        return properties;
+    }
+
+    private static Injector diamond()
+    {
+        return new Injector(bindings(A.class, AImpl.class, B.class, BImpl.class, C.class, CImpl.class, D.class, DImpl.class));
+    }
+
+    private static int levelOf(BootstrapReport report, Class<?> binding)
+    {
+        return report.getEntries().stream().filter(entry -> entry.getBinding().equals(binding.getName()))
+                .findFirst().orElseThrow().getLevel();
+    }
+
+    @Test
+    void testDiamondIsSplitIntoLevels()
+    {
+        BootstrapReport report = diamond().bootstrap();
+
+        assertEquals(4, report.getEntries().size(), "Отчет должен содержать все привязки");
+        assertEquals(0, levelOf(report, A.class), "A не имеет зависимостей");
+        assertEquals(1, levelOf(report, B.class), "B зависит от A");
+        assertEquals(1, levelOf(report, C.class), "C зависит от A");
+        assertEquals(2, levelOf(report, D.class), "D зависит от B и C");
+    }
+
+    @Test
+    void testCriticalPathGoesThroughSlowerNode()
+    {
+        BootstrapReport report = diamond().bootstrap();
+
+        assertEquals(List.of(A.class.getName(), C.class.getName(), D.class.getName()), report.getCriticalPath(),
+                "Критический путь должен проходить через более медленную привязку C");
+        assertTrue(report.getCriticalPathNanos() >= 100_000_000L, "Критический путь должен включать время создания C");
+    }
+
+    @Test
+    void testCycleIsRejected()
+    {
+        Injector injector = new Injector(bindings(First.class, FirstImpl.class, Second.class, SecondImpl.class));
+
+        RuntimeException e = assertThrows(RuntimeException.class, injector::bootstrap, "Цикл должен приводить к ошибке");
+        assertTrue(e.getMessage().contains("Cyclic dependency"), "Сообщение должно указывать на цикл: " + e.getMessage());
+    }
+
+    @Test
+    void testSingletonsReceiveEarlierLevelSingletons()
+    {
+        Injector injector = diamond();
+        injector.bootstrap();
+
+        A a = injector.getSingleton(A.class);
+        BImpl b = (BImpl) injector.getSingleton(B.class);
+        CImpl c = (CImpl) injector.getSingleton(C.class);
+        DImpl d = (DImpl) injector.getSingleton(D.class);
+
+        assertSame(a, b.a, "B должен получить синглтон A");
+        assertSame(a, c.a, "C должен получить синглтон A");
+        assertSame(b, d.b, "D должен получить синглтон B");
+        assertSame(c, d.c, "D должен получить синглтон C");
+    }
+}
@@ -2,9 +2,14 @@ package org.example;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintStream;
+import java.util.Optional;
+import java.util.function.Supplier;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -224,4 +229,220 @@ public class Test_
         assertNotSame(injected1.getField1(), injected2.getField1(), "field1 разных объектов должны быть разными экземплярами");
         assertNotSame(injected1.getField2(), injected2.getField2(), "field2 разных объектов должны быть разными экземплярами");
     }
+
+    @Test
+    void testBootstrapCreatesSingletonForEveryBinding()
+    {
+        BootstrapReport report = injector.bootstrap();
+
+        assertEquals(2, report.getEntries().size(), "Отчет должен содержать все привязки из конфигурации");
+        assertEquals(SomeImpl.class, injector.getSingleton(SomeInterface.class).getClass());
+        assertEquals(SODoer.class, injector.getSingleton(SomeOtherInterface.class).getClass());
+        assertFalse(report.getCriticalPath().isEmpty(), "Критический путь должен содержать хотя бы одну привязку");
+    }
+
+    @Test
+    void testInjectUsesSingletonsAfterBootstrap()
+    {
+        injector.bootstrap();
+
+        SomeBean injected1 = injector.inject(new SomeBean());
+        SomeBean injected2 = injector.inject(new SomeBean());
+
+        assertSame(injector.getSingleton(SomeInterface.class), injected1.getField1(), "После bootstrap() должен внедряться синглтон");
+        assertSame(injected1.getField2(), injected2.getField2(), "Разные объекты должны получать один и тот же синглтон");
+    }
+
+    @Test
+    void testGetSingletonWithoutBootstrap()
+    {
+        assertThrows(IllegalStateException.class, () -> injector.getSingleton(SomeInterface.class), "Без bootstrap() синглтонов нет");
+    }
+
+    @Test
+    void testLoadGeneratorPrintsStatistics()
+    {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        LoadGenerator generator = LoadGenerator.fromArgs(new String[] {"--beans", "1000", "--threads", "2", "--warmup", "0", "--backend", "virtual"});
+
+        generator.run(new PrintStream(outputStream));
+
+        String output = outputStream.toString();
+        assertTrue(output.contains("Throughput"), "Вывод должен содержать пропускную способность");
+        assertTrue(output.contains("p999"), "Вывод должен содержать перцентили задержки");
+        assertTrue(output.contains("GC"), "Вывод должен содержать статистику сборщика мусора");
+    }
+
+    @Test
+    void testLoadGeneratorRejectsUnknownOption()
+    {
+        assertThrows(IllegalArgumentException.class, () -> LoadGenerator.fromArgs(new String[] {"--scope", "request"}), "Неизвестная область видимости должна приводить к ошибке");
+        assertThrows(IllegalArgumentException.class, () -> LoadGenerator.fromArgs(new String[] {"--beans"}), "Параметр без значения должен приводить к ошибке");
+    }
+
+    /**
+     * Интерфейс, для которого в конфигурации нет реализации.
+     */
+    interface UnboundService
+    {
+    }
+
+    @Test
+    void testOptionalFieldsWithoutImplementation()
+    {
+        class OptionalBean
+        {
+            @AutoInjectable(required = false)
+            private UnboundService missing;
+
+            @AutoInjectable
+            private Optional<UnboundService> missingOptional;
+
+            @AutoInjectable
+            private Optional<SomeInterface> presentOptional;
+
+            @AutoInjectable(required = false)
+            private SomeOtherInterface present;
+        }
+
+        OptionalBean bean = injector.inject(new OptionalBean());
+
+        assertNull(bean.missing, "Необязательное поле без реализации должно остаться null");
+        assertEquals(Optional.empty(), bean.missingOptional, "Optional без реализации должен быть пустым");
+        assertEquals(SomeImpl.class, bean.presentOptional.orElseThrow().getClass(), "Optional с реализацией должен содержать ее экземпляр");
+        assertEquals(SODoer.class, bean.present.getClass(), "Необязательное поле с реализацией должно быть заполнено");
+    }
+
+    @Test
+    void testRequiredFieldWithoutImplementation()
+    {
+        class RequiredBean
+        {
+            @AutoInjectable
+            private UnboundService missing;
+        }
+
+        assertThrows(RuntimeException.class, () -> injector.inject(new RequiredBean()), "Обязательное поле без реализации должно приводить к ошибке");
+    }
+
+    @Test
+    void testOptionalFieldsAfterBootstrap()
+    {
+        class OptionalBean
+        {
+            @AutoInjectable
+            private Optional<SomeInterface> presentOptional;
+
+            @AutoInjectable
+            private Optional<UnboundService> missingOptional;
+        }
+
+        injector.bootstrap();
+        OptionalBean bean = injector.inject(new OptionalBean());
+
+        assertSame(injector.getSingleton(SomeInterface.class), bean.presentOptional.orElseThrow(), "Optional должен содержать синглтон");
+        assertTrue(bean.missingOptional.isEmpty(), "Optional без реализации должен быть пустым");
+    }
+
+    @Test
+    void testSupplierFieldCreatesNewInstances()
+    {
+        class FactoryBean
+        {
+            @AutoInjectable
+            private Supplier<SomeInterface> factory;
+
+            @AutoInjectable(required = false)
+            private Supplier<UnboundService> missingFactory;
+        }
+
+        FactoryBean bean1 = injector.inject(new FactoryBean());
+        FactoryBean bean2 = injector.inject(new FactoryBean());
+
+        assertNotNull(bean1.factory, "Поле Supplier должно быть заполнено");
+        assertNull(bean1.missingFactory, "Необязательное поле Supplier без реализации должно остаться null");
+        assertEquals(SomeImpl.class, bean1.factory.get().getClass(), "Фабрика должна создавать настроенную реализацию");
+        assertNotSame(bean1.factory.get(), bean1.factory.get(), "Каждый вызов фабрики должен создавать новый экземпляр");
+        assertSame(bean1.factory, bean2.factory, "Фабрика должна создаваться один раз для реализации");
+    }
+
+    /**
+     * Класс плагина: загружается заново отдельным загрузчиком при каждом "редеплое".
+     */
+    public static class PluginBean
+    {
+        @AutoInjectable
+        private SomeInterface service;
+    }
+
+    /**
+     * Загрузчик плагина, который сам определяет {@link PluginBean} и делегирует родителю остальные классы.
+     */
+    private static class PluginClassLoader extends ClassLoader
+    {
+        PluginClassLoader(ClassLoader parent)
+        {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException
+        {
+            if (!name.equals(PluginBean.class.getName()))
+                return super.loadClass(name, resolve);
+
+            synchronized (getClassLoadingLock(name))
+            {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null)
+                    return loaded;
+
+                try (InputStream input = getParent().getResourceAsStream(name.replace('.', '/') + ".class"))
+                {
+                    byte[] bytes = input.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                }
+                catch (IOException e)
+                {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Загружает плагин в новом загрузчике, внедряет зависимости в его объект
+     * и возвращает слабую ссылку на загрузчик.
+     */
+    private WeakReference<ClassLoader> deployPlugin() throws Exception
+    {
+        ClassLoader loader = new PluginClassLoader(getClass().getClassLoader());
+        Class<?> pluginClass = loader.loadClass(PluginBean.class.getName());
+        assertNotSame(PluginBean.class, pluginClass, "Класс плагина должен быть загружен отдельным загрузчиком");
+
+        Object plugin = injector.inject(pluginClass.getDeclaredConstructor().newInstance());
+
+        Field service = pluginClass.getDeclaredField("service");
+        service.setAccessible(true);
+        assertEquals(SomeImpl.class, service.get(plugin).getClass(), "В плагин должна быть внедрена реализация");
+
+        return new WeakReference<>(loader);
+    }
+
+    @Test
+    void testPluginClassLoaderIsCollectedAfterRedeploy() throws Exception
+    {
+        WeakReference<ClassLoader> firstDeploy = deployPlugin();
+        WeakReference<ClassLoader> secondDeploy = deployPlugin();
+
+        for (int i = 0; i < 50 && (firstDeploy.get() != null || secondDeploy.get() != null); i++)
+        {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertNull(firstDeploy.get(), "Injector не должен удерживать загрузчик первой версии плагина");
+        assertNull(secondDeploy.get(), "Injector не должен удерживать загрузчик второй версии плагина");
+        assertNotNull(injector.inject(new SomeBean()).getField1(), "Injector должен продолжать работать после редеплоя");
+    }
 }